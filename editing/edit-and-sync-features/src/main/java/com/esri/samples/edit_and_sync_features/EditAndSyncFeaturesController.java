@@ -38,7 +38,6 @@ import com.esri.arcgisruntime.data.Geodatabase;
 import com.esri.arcgisruntime.data.ServiceFeatureTable;
 import com.esri.arcgisruntime.data.TileCache;
 import com.esri.arcgisruntime.geometry.Envelope;
-import com.esri.arcgisruntime.geometry.GeometryEngine;
 import com.esri.arcgisruntime.geometry.GeometryType;
 import com.esri.arcgisruntime.geometry.Point;
 import com.esri.arcgisruntime.layers.ArcGISTiledLayer;
@@ -244,7 +243,7 @@ public class EditAndSyncFeaturesController {
         if (selectedFeature != null) {
           // move the selected feature to the clicked location and update it in the feature table
           Point point = mapView.screenToLocation(screenPoint);
-          if (GeometryEngine.intersects(point, downloadAreaGraphic.getGeometry())) {
+          if (isInDownloadArea(point)) {
             selectedFeature.setGeometry(point);
             selectedFeature.getFeatureTable().updateFeatureAsync(selectedFeature).addDoneListener(() -> syncButton.setDisable(false));
           } else {
@@ -365,6 +364,22 @@ public class EditAndSyncFeaturesController {
     }
   }
 
+  /**
+   * Checks whether a point is within the download area. The download area is an envelope, so the point is compared with
+   * its bounds directly rather than testing the geometries with the geometry engine on every click.
+   *
+   * @param point the point to check
+   * @return true if the point is within the download area
+   */
+  private boolean isInDownloadArea(Point point) {
+    if (point == null || downloadAreaGraphic.getGeometry() == null) {
+      return false;
+    }
+    Envelope downloadArea = downloadAreaGraphic.getGeometry().getExtent();
+    return point.getX() >= downloadArea.getXMin() && point.getX() <= downloadArea.getXMax()
+        && point.getY() >= downloadArea.getYMin() && point.getY() <= downloadArea.getYMax();
+  }
+
   /**
    * Stops the animation and disposes of application resources.
    */
@@ -1,5 +1,6 @@
 package com.esri.samples.statistical_query_group_and_sort;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -255,6 +256,10 @@ public class StatisticalQueryGroupAndSortController {
         // get the query result
         StatisticsQueryResult result = statisticsQuery.get();
 
+        // build the tree items for all of the result records before adding them to the tree view, so that the tree
+        // view is only updated once
+        List<TreeItem<String>> groupTreeItems = new ArrayList<>();
+
         // iterate through the result records
         for (Iterator<StatisticRecord> records = result.iterator(); records.hasNext();) {
           StatisticRecord record = records.next();
@@ -262,7 +267,7 @@ public class StatisticalQueryGroupAndSortController {
           // create a tree item representing the group list
           TreeItem<String> groupTreeItem = new TreeItem<>(String.join(", ", record.getGroup().values().stream().map
               (Object::toString).collect(Collectors.toList())));
-          statisticRecordTreeView.getRoot().getChildren().add(groupTreeItem);
+          groupTreeItems.add(groupTreeItem);
 
           // add child tree items for each record's statistics, showing the statistic name and value
           List<TreeItem<String>> statisticTreeItems = record.getStatistics().entrySet().stream().map(statistic ->
@@ -270,6 +275,7 @@ public class StatisticalQueryGroupAndSortController {
           ).collect(Collectors.toList());
           groupTreeItem.getChildren().addAll(statisticTreeItems);
         }
+        statisticRecordTreeView.getRoot().getChildren().addAll(groupTreeItems);
       } catch (Exception ex) {
         new Alert(Alert.AlertType.ERROR, ex.getCause().getMessage()).show();
       }
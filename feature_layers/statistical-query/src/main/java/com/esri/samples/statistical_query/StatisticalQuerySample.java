@@ -16,8 +16,10 @@
 
 package com.esri.samples.statistical_query;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -101,22 +103,35 @@ public class StatisticalQuerySample extends Application {
         .map(type -> new StatisticDefinition("POP", type, null))
         .collect(Collectors.toList());
 
+      // store the statistics of queries that don't use the map extent, keyed by where clause. The city data doesn't
+      // change while the sample is running, so the same query always gives the same statistics
+      Map<String, String> cachedStatistics = new HashMap<>();
+
       // create a button to perform the statistical query
       Button queryButton = new Button("Get Statistics");
       queryButton.setOnAction(e -> {
+        boolean filterByExtent = currentExtentFilterToggle.isSelected();
+        // set an attribute filter to only retrieve large cities (rank = 1)
+        String whereClause = populationFilterToggle.isSelected() ? "POP_RANK = 1" : "";
+
+        // show the stored statistics if the same query has already been run
+        if (!filterByExtent && cachedStatistics.containsKey(whereClause)) {
+          showStatistics(cachedStatistics.get(whereClause));
+          return;
+        }
+
         // create statistics query parameters with the definitions
         StatisticsQueryParameters statisticsQueryParameters = new StatisticsQueryParameters(statisticDefinitions);
 
-        if (currentExtentFilterToggle.isSelected()) {
+        if (filterByExtent) {
           // set the query geometry to the current visible area
           statisticsQueryParameters.setGeometry(mapView.getVisibleArea());
           // set the spatial relationship to intersects (the default)
           statisticsQueryParameters.setSpatialRelationship(QueryParameters.SpatialRelationship.INTERSECTS);
         }
 
-        if (populationFilterToggle.isSelected()) {
-          // set an attribute filter to only retrieve large cities (rank = 1)
-          statisticsQueryParameters.setWhereClause("POP_RANK = 1");
+        if (!whereClause.isEmpty()) {
+          statisticsQueryParameters.setWhereClause(whereClause);
         }
 
         // execute the query
@@ -129,9 +144,10 @@ public class StatisticalQuerySample extends Application {
               StatisticRecord record = it.next();
               record.getStatistics().forEach((key, value) -> statistics.append("\n").append(key).append(": ").append(value));
             }
-            Alert alert = new Alert(Alert.AlertType.INFORMATION, statistics.toString());
-            alert.setHeaderText("Statistics");
-            alert.show();
+            if (!filterByExtent) {
+              cachedStatistics.put(whereClause, statistics.toString());
+            }
+            showStatistics(statistics.toString());
           } catch (ExecutionException | InterruptedException ex) {
             Alert alert = new Alert(Alert.AlertType.ERROR, ex.getMessage());
             alert.show();
@@ -163,6 +179,18 @@ public class StatisticalQuerySample extends Application {
     }
   }
 
+  /**
+   * Shows the statistics from a query in an alert.
+   *
+   * @param statistics the statistic names and values to show
+   */
+  private void showStatistics(String statistics) {
+
+    Alert alert = new Alert(Alert.AlertType.INFORMATION, statistics);
+    alert.setHeaderText("Statistics");
+    alert.show();
+  }
+
   /**
    * Stops and releases all resources used in application.
    */
@@ -38,6 +38,8 @@ import com.esri.arcgisruntime.concurrent.ListenableFuture;
 import com.esri.arcgisruntime.data.FeatureQueryResult;
 import com.esri.arcgisruntime.data.QueryParameters;
 import com.esri.arcgisruntime.data.ServiceFeatureTable;
+import com.esri.arcgisruntime.geometry.Geometry;
+import com.esri.arcgisruntime.geometry.GeometryEngine;
 import com.esri.arcgisruntime.layers.FeatureLayer;
 import com.esri.arcgisruntime.loadable.LoadStatus;
 import com.esri.arcgisruntime.mapping.ArcGISMap;
@@ -50,6 +52,8 @@ public class ToggleBetweenFeatureRequestModesSample extends Application {
 
   private Button populateButton;
   private FeatureLayer featureLayer; // keep loadable in scope to avoid garbage collection
+  private Geometry populatedArea;
+  private ListenableFuture<FeatureQueryResult> populateResult;
   private Label label;
   private MapView mapView;
   private ProgressIndicator progressIndicator;
@@ -113,6 +117,13 @@ public class ToggleBetweenFeatureRequestModesSample extends Application {
             } else {
               label.setText("Click populate to view results");
             }
+            // cancel any populate still running, so its result isn't added to the new cache, and start a new cache with
+            // the next manual populate
+            if (populateResult != null) {
+              populateResult.cancel(true);
+              populateResult = null;
+            }
+            populatedArea = null;
             // set request mode of service feature table to selected toggle option
             featureTable.setFeatureRequestMode((ServiceFeatureTable.FeatureRequestMode)
               toggleGroup.getSelectedToggle().getUserData());
@@ -149,32 +160,62 @@ public class ToggleBetweenFeatureRequestModesSample extends Application {
   }
 
   /**
-   * Fetches the cache from a Service Feature Table manually.
+   * Fetches the cache from a Service Feature Table manually. Only the part of the visible extent that has not already
+   * been fully populated is requested, and the new features are added to the existing cache.
    */
   private void fetchCacheManually() {
 
+    Geometry visibleExtent = mapView.getVisibleArea().getExtent();
+    if (populatedArea != null && GeometryEngine.contains(populatedArea, visibleExtent)) {
+      label.setText("Features in this extent have already been populated.");
+      return;
+    }
+    // request only the area that hasn't been populated yet
+    Geometry queryArea = populatedArea == null ? visibleExtent : GeometryEngine.difference(visibleExtent, populatedArea);
+
     // create query to select all tree features
     QueryParameters queryParams = new QueryParameters();
-    // query for all tree conditions except "dead" with coded value '4' within the visible extent
+    // query for all tree conditions except "dead" with coded value '4' within the area to populate
     queryParams.setWhereClause("Condition < '4'");
-    queryParams.setGeometry(mapView.getVisibleArea().getExtent());
+    queryParams.setGeometry(queryArea);
 
     List<String> outfields = Collections.singletonList("*");     // * means all features
-    // get queried features from service feature table and clear previous cache
-    ListenableFuture<FeatureQueryResult> tableResult = featureTable.populateFromServiceAsync(queryParams, true, outfields);
+    // get queried features from service feature table, clearing the previous cache if this is the first request
+    boolean clearCache = populatedArea == null;
+    ListenableFuture<FeatureQueryResult> tableResult = featureTable.populateFromServiceAsync(queryParams, clearCache,
+      outfields);
+
+    // disable the populate button until the request has finished, so the same area isn't requested again
+    populateButton.setDisable(true);
+    populateResult = tableResult;
 
     tableResult.addDoneListener(() -> {
+      // ignore the result if the request mode was changed while the populate was running
+      if (tableResult != populateResult) {
+        return;
+      }
+      populateResult = null;
       try {
+        FeatureQueryResult result = tableResult.get();
+
         // find the number of features returned from query
         AtomicInteger featuresReturned = new AtomicInteger();
-        tableResult.get().forEach(feature -> featuresReturned.getAndIncrement());
+        result.forEach(feature -> featuresReturned.getAndIncrement());
 
-        // display number of returned features to the user
+        // only treat the area as populated if the service returned all of its features
         // note the service has a maximum record count of 2000
+        if (!result.isTransferLimitExceeded()) {
+          populatedArea = populatedArea == null ? queryArea : GeometryEngine.union(populatedArea, queryArea);
+        }
+
+        // display number of returned features to the user
         label.setText("Populated " + featuresReturned + " features.");
       } catch (Exception e) {
         // on any error, display the stack trace
         e.printStackTrace();
+      } finally {
+        // enable the populate button again if the manual cache radio button is still selected
+        populateButton.setDisable(!manualCacheButton.isSelected());
       }
     });
   }
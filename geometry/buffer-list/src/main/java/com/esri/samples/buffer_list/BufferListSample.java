@@ -19,8 +19,11 @@ package com.esri.samples.buffer_list;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.geometry.Pos;
@@ -178,13 +181,27 @@ public class BufferListSample extends Application {
 
       // draw the buffer(s) when the button is clicked
       createButton.setOnAction(e -> {
-        // if the buffers are unioned, only one polygon is returned
         if (!geometries.isEmpty() && !distances.isEmpty()) {
-          List<Polygon> buffers = GeometryEngine.buffer(geometries, distances, unionCheckBox.isSelected());
-          buffers.forEach(bufferGeometry -> {
-            Graphic bufferGraphic = new Graphic(bufferGeometry, fillSymbol);
-            bufferGraphicsOverlay.getGraphics().add(bufferGraphic);
-          });
+          // copy the inputs, since more locations can be clicked while the buffers are being created
+          List<Geometry> bufferInputs = List.copyOf(geometries);
+          List<Double> bufferDistances = List.copyOf(distances);
+          boolean union = unionCheckBox.isSelected();
+
+          // create the buffers off the JavaFX application thread so the UI stays responsive with many locations
+          controlsVBox.setDisable(true);
+          CompletableFuture.supplyAsync(() -> GeometryEngine.buffer(bufferInputs, bufferDistances, union))
+            .whenComplete((buffers, ex) -> Platform.runLater(() -> {
+              controlsVBox.setDisable(false);
+              if (ex != null) {
+                new Alert(Alert.AlertType.ERROR, "Failed to create buffers: " + ex.getCause().getMessage()).show();
+              } else {
+                // if the buffers are unioned, only one polygon is returned
+                List<Graphic> bufferGraphics = buffers.stream()
+                  .map(bufferGeometry -> new Graphic(bufferGeometry, fillSymbol))
+                  .collect(Collectors.toList());
+                bufferGraphicsOverlay.getGraphics().addAll(bufferGraphics);
+              }
+            }));
         }
       });
 
@@ -135,8 +135,9 @@ public class GeodesicOperationsSample extends Application {
           Geometry pathGeometry = GeometryEngine.densifyGeodetic(polyline, 1, unitOfMeasurement, GeodeticCurveType
               .GEODESIC);
           path.setGeometry(pathGeometry);
-          // calculate the path distance
-          double distance = GeometryEngine.lengthGeodetic(pathGeometry, unitOfMeasurement, GeodeticCurveType.GEODESIC);
+          // calculate the geodesic distance from the two-point line, the densified path follows the same geodesic so it
+          // has the same length but many more vertices to measure
+          double distance = GeometryEngine.lengthGeodetic(polyline, unitOfMeasurement, GeodeticCurveType.GEODESIC);
           distanceLabel.setText(formatter.format(distance));
         }
       });
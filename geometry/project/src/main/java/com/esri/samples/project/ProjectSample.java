@@ -88,6 +88,9 @@ public class ProjectSample extends Application {
 
       DecimalFormat decimalFormat = new DecimalFormat("#.00000");
 
+      // create the spatial reference to project to once, rather than on every click
+      SpatialReference outputSpatialReference = SpatialReference.create(4236);
+
       // show the input location where the user clicks on the map
       mapView.setOnMouseClicked(e -> {
         if (e.isStillSincePress() && e.getButton() == MouseButton.PRIMARY) {
@@ -96,7 +99,7 @@ public class ProjectSample extends Application {
           Point originalPoint = mapView.screenToLocation(point2D);
           inputPointGraphic.setGeometry(originalPoint);
           // project the web mercator point to WGS84 (WKID 4326)
-          Point projectedPoint = (Point) GeometryEngine.project(originalPoint, SpatialReference.create(4236));
+          Point projectedPoint = (Point) GeometryEngine.project(originalPoint, outputSpatialReference);
           // show the original and projected point coordinates in a callout from the graphic
           Callout callout = mapView.getCallout();
           callout.setTitle("Coordinates");
@@ -35,6 +35,7 @@ import javafx.stage.Stage;
 
 import com.esri.arcgisruntime.ArcGISRuntimeEnvironment;
 import com.esri.arcgisruntime.concurrent.ListenableFuture;
+import com.esri.arcgisruntime.geometry.Envelope;
 import com.esri.arcgisruntime.geometry.Geometry;
 import com.esri.arcgisruntime.geometry.GeometryEngine;
 import com.esri.arcgisruntime.geometry.GeometryType;
@@ -196,7 +197,8 @@ public class SpatialRelationshipsSample extends Application {
   }
 
   /**
-   * Gets a list of spatial relationships that the first geometry has to the second geometry.
+   * Gets a list of spatial relationships that the first geometry has to the second geometry. Geometries that don't
+   * intersect can only be disjoint, so the other relationships are only tested when the geometries intersect.
    * 
    * @param a first geometry
    * @param b second geometry
@@ -204,16 +206,32 @@ public class SpatialRelationshipsSample extends Application {
    */
   private List<SpatialRelationship> getSpatialRelationships(Geometry a, Geometry b) {
     List<SpatialRelationship> relationships = new ArrayList<>();
+    // geometries whose extents don't intersect can't intersect, so check the extents first
+    if (!extentsIntersect(a.getExtent(), b.getExtent()) || !GeometryEngine.intersects(a, b)) {
+      relationships.add(SpatialRelationship.DISJOINT);
+      return relationships;
+    }
     if (GeometryEngine.crosses(a, b)) relationships.add(SpatialRelationship.CROSSES);
     if (GeometryEngine.contains(a, b)) relationships.add(SpatialRelationship.CONTAINS);
-    if (GeometryEngine.disjoint(a, b)) relationships.add(SpatialRelationship.DISJOINT);
-    if (GeometryEngine.intersects(a, b)) relationships.add(SpatialRelationship.INTERSECTS);
+    relationships.add(SpatialRelationship.INTERSECTS);
     if (GeometryEngine.overlaps(a, b)) relationships.add(SpatialRelationship.OVERLAPS);
     if (GeometryEngine.touches(a, b)) relationships.add(SpatialRelationship.TOUCHES);
     if (GeometryEngine.within(a, b)) relationships.add(SpatialRelationship.WITHIN);
     return relationships;
   }
 
+  /**
+   * Checks whether two envelopes in the same spatial reference intersect, including touching at an edge or corner.
+   *
+   * @param a first envelope
+   * @param b second envelope
+   * @return true if the envelopes intersect
+   */
+  private boolean extentsIntersect(Envelope a, Envelope b) {
+    return a.getXMin() <= b.getXMax() && b.getXMin() <= a.getXMax() && a.getYMin() <= b.getYMax()
+        && b.getYMin() <= a.getYMax();
+  }
+
   /**
    * Stops and releases all resources used in application.
    */
@@ -18,14 +18,15 @@
 package com.esri.samples.display_device_location_with_nmea_data_sources;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileReader;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
@@ -96,8 +97,8 @@ public class DisplayDeviceLocationWithNmeaDataSourcesController {
 
   /**
    * Initializes the location data source, reads the mock data NMEA sentences, and displays location updates from that file
-   * on the location display. Data is pushed to the data source using a timeline to simulate live updates, as they would
-   * appear if using real-time data from a GPS dongle.
+   * on the location display. Data is pushed to the data source an epoch at a time using a timeline to simulate live
+   * updates, as they would appear if using real-time data from a GPS dongle.
    */
   @FXML
   private void start() {
@@ -107,13 +108,8 @@ public class DisplayDeviceLocationWithNmeaDataSourcesController {
     if (simulatedNmeaDataFile.exists()) {
 
       try {
-        // read the nmea file contents using a buffered reader and store the mock data sentences in a list
-        BufferedReader bufferedReader = new BufferedReader(new FileReader(simulatedNmeaDataFile.getPath()));
-        // add carriage return for NMEA location data source parser
-        List<String> nmeaSentences = bufferedReader.lines().map(nmeaSentence -> nmeaSentence + "\n").collect(Collectors.toList());
-
-        // close the stream and release resources
-        bufferedReader.close();
+        // read the nmea file contents and store the mock data as one block of bytes per epoch
+        List<byte[]> nmeaEpochs = readNmeaEpochs(simulatedNmeaDataFile);
 
         LocationDataSource.StatusChangedListener listener = new LocationDataSource.StatusChangedListener() {
 
@@ -129,13 +125,15 @@ public class DisplayDeviceLocationWithNmeaDataSourcesController {
               setupSatelliteChangedListener();
 
               timeline.setCycleCount(-1); // loop count
-              // push the mock data NMEA sentences into the data source every 250 ms
-              timeline.getKeyFrames().add(new KeyFrame(Duration.millis(250), event -> {
+              // push the mock data NMEA sentences into the data source an epoch at a time, once per second as a GPS
+              // receiver would report them. The fixes are replayed at this fixed rate regardless of the times recorded in
+              // the file
+              timeline.getKeyFrames().add(new KeyFrame(Duration.seconds(1), event -> {
 
                 // note: you can also use real-time NMEA sentences obtained via a GPS dongle
-                nmeaLocationDataSource.pushData(nmeaSentences.get(count++).getBytes(StandardCharsets.UTF_8)); // post increment step
-                // reset the count after the last data point is reached
-                if (count == nmeaSentences.size()) {
+                nmeaLocationDataSource.pushData(nmeaEpochs.get(count++)); // post increment step
+                // reset the count after the last epoch is reached
+                if (count == nmeaEpochs.size()) {
                   count = 0;
                 }
 
@@ -176,6 +174,52 @@ public class DisplayDeviceLocationWithNmeaDataSourcesController {
 
   }
 
+  /**
+   * Reads the NMEA sentences from a file and groups them by epoch, the set of sentences a receiver reports for a single
+   * fix. A new epoch starts each time the UTC time of a GGA or RMC sentence changes, whichever talker reported it, so
+   * multi-part sentences such as GSV stay with the fix they were reported for. The sentences of each epoch are encoded
+   * once, so that they can be pushed to the data source in a single call.
+   *
+   * @param nmeaFile the file containing NMEA sentences
+   * @return the encoded sentences of each epoch in the file
+   * @throws IOException if the file could not be read
+   */
+  private List<byte[]> readNmeaEpochs(File nmeaFile) throws IOException {
+
+    List<byte[]> nmeaEpochs = new ArrayList<>();
+    ByteArrayOutputStream epoch = new ByteArrayOutputStream();
+    String epochTime = null;
+
+    try (BufferedReader bufferedReader = new BufferedReader(new FileReader(nmeaFile))) {
+      String nmeaSentence;
+      while ((nmeaSentence = bufferedReader.readLine()) != null) {
+        if (nmeaSentence.length() < 6) {
+          continue;
+        }
+        // the sentence type follows the "$" and the two character talker id, e.g. "GGA" in "$GPGGA"
+        String sentenceType = nmeaSentence.substring(3, 6);
+        if (sentenceType.equals("GGA") || sentenceType.equals("RMC")) {
+          // the UTC time of the fix is the first field of both sentence types
+          String[] fields = nmeaSentence.split(",", 3);
+          String time = fields.length > 1 ? fields[1] : "";
+          if (!time.isEmpty() && !time.equals(epochTime)) {
+            if (epochTime != null && epoch.size() > 0) {
+              nmeaEpochs.add(epoch.toByteArray());
+              epoch.reset();
+            }
+            epochTime = time;
+          }
+        }
+        // add carriage return for NMEA location data source parser
+        epoch.writeBytes((nmeaSentence + "\n").getBytes(StandardCharsets.UTF_8));
+      }
+    }
+    if (epoch.size() > 0) {
+      nmeaEpochs.add(epoch.toByteArray());
+    }
+    return nmeaEpochs;
+  }
+
   /**
    * Obtains NMEA satellite information from the NMEA location data source, and displays satellite information on the app.
    */
@@ -63,8 +63,13 @@ import org.apache.commons.io.IOUtils;
 
 public class ShowLocationHistorySample extends Application {
 
+  // the number of points in each segment of the route line, only the latest segment is rebuilt when the location changes
+  private static final int MAX_TRACK_SEGMENT_POINT_COUNT = 100;
+
   private MapView mapView;
   private Point position;
+  private PolylineBuilder trackSegmentBuilder;
+  private Graphic trackSegmentGraphic;
 
   @Override
   public void start(Stage stage) {
@@ -120,8 +125,8 @@ public class ShowLocationHistorySample extends Application {
       // add the graphics overlays to the map view
       mapView.getGraphicsOverlays().addAll(Arrays.asList(locationHistoryOverlay, locationHistoryLineOverlay));
 
-      // create a polyline builder to connect the location points
-      PolylineBuilder polylineBuilder = new PolylineBuilder(SpatialReferences.getWebMercator());
+      // start the first segment of the line connecting the location points
+      startTrackSegment(locationHistoryLineOverlay, null);
 
       // access the json of the location points
       String polylineData = IOUtils.toString(getClass().getResourceAsStream("/show_location_history/polyline_data.json"), StandardCharsets.UTF_8);
@@ -144,21 +149,22 @@ public class ShowLocationHistorySample extends Application {
       LocationChangedListener locationChangedListener =
         (LocationDataSource.LocationChangedEvent locationChangedEvent) -> {
 
-        // reset the old polyline connecting the points
-        locationHistoryLineOverlay.getGraphics().clear();
-
         // add any previous position to the history
         if (position != null) {
-          // add the new point to the polyline
-          polylineBuilder.addPoint(position);
+          // add the new point to the current segment of the polyline
+          trackSegmentBuilder.addPoint(position);
           // add the new point to the graphics overlay
           locationHistoryOverlay.getGraphics().add(new Graphic(position));
+          // update the graphic for the current segment, earlier segments are left unchanged
+          trackSegmentGraphic.setGeometry(trackSegmentBuilder.toGeometry());
+
+          // once the segment is full, start a new segment from its last point
+          if (trackSegmentBuilder.getParts().getTotalPointCount() >= MAX_TRACK_SEGMENT_POINT_COUNT) {
+            startTrackSegment(locationHistoryLineOverlay, position);
+          }
         }
         // store the current position
         position = locationChangedEvent.getLocation().getPosition();
-
-        // add the updated polyline to the graphics overlay
-        locationHistoryLineOverlay.getGraphics().add(new Graphic(polylineBuilder.toGeometry()));
       };
 
       trackingButton.setOnAction(event -> {
@@ -212,6 +218,22 @@ public class ShowLocationHistorySample extends Application {
     }
   }
 
+  /**
+   * Starts a new segment of the line connecting the location points, with its own graphic in the graphics overlay.
+   *
+   * @param lineOverlay the graphics overlay for the line connecting the points
+   * @param startPoint the last point of the previous segment, or null if this is the first segment
+   */
+  private void startTrackSegment(GraphicsOverlay lineOverlay, Point startPoint) {
+
+    trackSegmentBuilder = new PolylineBuilder(SpatialReferences.getWebMercator());
+    if (startPoint != null) {
+      trackSegmentBuilder.addPoint(startPoint);
+    }
+    trackSegmentGraphic = new Graphic();
+    lineOverlay.getGraphics().add(trackSegmentGraphic);
+  }
+
   /**
    * Stops and releases all resources used in application.
    */
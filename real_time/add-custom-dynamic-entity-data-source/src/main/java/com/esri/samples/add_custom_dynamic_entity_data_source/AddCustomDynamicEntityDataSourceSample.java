@@ -76,8 +76,13 @@ public class AddCustomDynamicEntityDataSourceSample extends Application {
     var resource = new File(System.getProperty("data.dir"), "./samples-data/real_time/AIS_MarineCadastre_SelectedVessels_CustomDataSource.json").getPath();
 
     // create a custom data source implementation of a DynamicEntityDataSource with a data source,
-    // an entity id field name (a unique identifier for each entity), and an update delay
-    dynamicEntityDataSource = new SimulatedDataSource(resource, "MMSI", 10);
+    // an entity id field name (a unique identifier for each entity), and a replay speed relative to the time the
+    // observations were recorded
+    dynamicEntityDataSource = new SimulatedDataSource(resource, "MMSI", 60);
+
+    // limit how many observations the data source keeps for each vessel, so that memory use does not keep growing
+    // while the observations are replayed
+    dynamicEntityDataSource.getPurgeOptions().setMaximumObservationsPerTrack(100);
 
     dynamicEntityDataSource.connectionStatusProperty().addListener((property, oldValue, newValue) -> {
       if (newValue == ConnectionStatus.FAILED) {
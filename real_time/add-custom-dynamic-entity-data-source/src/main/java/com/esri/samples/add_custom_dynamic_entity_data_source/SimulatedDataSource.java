@@ -19,19 +19,20 @@ package com.esri.samples.add_custom_dynamic_entity_data_source;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 
-import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import com.esri.arcgisruntime.data.Field;
 import com.esri.arcgisruntime.geometry.Point;
@@ -44,26 +45,32 @@ import com.esri.arcgisruntime.realtime.DynamicEntityDataSourceInfo;
  */
 class SimulatedDataSource extends DynamicEntityDataSource {
 
+  private static final String TIMESTAMP_FIELD_NAME = "BaseDateTime";
+
   private final String fileName;
   private final String entityIdFieldName;
-  private final long delay;
+  private final double speed;
   private final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
-  private ScheduledFuture<?> observationProcessing;
-  private final AtomicInteger currentLineNumber = new AtomicInteger();
-  private final List<String> allJsonLines = new ArrayList<>();
-  private final Gson gson = new Gson();
+  private volatile ScheduledFuture<?> observationProcessing;
+  private volatile boolean processingObservations;
+  private JsonReader jsonReader;
+  private Point pendingPoint;
+  private Map<String, Object> pendingAttributes;
+  private final Map<String, Field.Type> fieldTypes = new HashMap<>();
+  private final Set<String> invalidValueNames = new HashSet<>();
 
   /**
    * Construct a custom DynamicEntityDataSource.
    *
    * @param fileName name of a file with JSON observation data
    * @param entityIdFieldName the name of the field containing values that uniquely identifies each entity
-   * @param delay millisecond delay between observations being added to the data source
+   * @param speed how many times faster than recorded the observations are replayed, based on the time between their
+   *              timestamps, or 0 to replay them as fast as possible
    */
-  SimulatedDataSource(String fileName, String entityIdFieldName, long delay) {
+  SimulatedDataSource(String fileName, String entityIdFieldName, double speed) {
     this.fileName = fileName;
     this.entityIdFieldName = entityIdFieldName;
-    this.delay = delay;
+    this.speed = speed;
   }
 
   @Override
@@ -79,66 +86,277 @@ class SimulatedDataSource extends DynamicEntityDataSource {
   }
 
   /**
-   * Read a file of observation data and start processing.
+   * Open a file of observation data and start processing. Observations are read from the file as they are needed, so
+   * memory use does not grow with the size of the file.
    */
   private void startProcessingObservations() throws IOException {
-    // store all lines from file in a list
-    try (BufferedReader bufferedReader = new BufferedReader(new FileReader(fileName))) {
-      allJsonLines.addAll(bufferedReader.lines().filter(Objects::nonNull).toList());
+    try {
+      jsonReader = new JsonReader(new BufferedReader(new FileReader(fileName)));
+      // the file contains one JSON object per line rather than a single JSON document
+      jsonReader.setLenient(true);
     } catch (IOException e) {
       System.err.println("Failed to start processing observations: " + e.getMessage());
       throw e;
     }
-    // process file data a line at a time
-    observationProcessing = executorService.scheduleAtFixedRate(this::processNextObservation, 0L, delay, TimeUnit.MILLISECONDS);
+    // process file data a timestamp at a time, starting straight away
+    processingObservations = true;
+    scheduleNextObservations(0L);
+  }
+
+  /**
+   * Schedule the next run of the processing task, unless processing has been stopped.
+   *
+   * @param delay millisecond delay before the next observations are processed
+   */
+  private void scheduleNextObservations(long delay) {
+    if (processingObservations) {
+      observationProcessing = executorService.schedule(this::processNextObservations, delay, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Process the next observation along with any following observations recorded at the same time, so that entities
+   * reported together in the file are added to the data source together. The task then schedules itself to run again
+   * after the time between these observations and the next ones, so the observations are replayed at the pace they
+   * were recorded. Processing stops when all observations have been processed.
+   */
+  private void processNextObservations() {
+    if (!processingObservations) {
+      return;
+    }
+    try {
+      if (pendingPoint == null && !readNextObservation()) {
+        // finished all the observations
+        stopProcessingObservations();
+        return;
+      }
+      Object timestamp = pendingAttributes.get(TIMESTAMP_FIELD_NAME);
+      do {
+        addObservation(pendingPoint, pendingAttributes);
+        pendingPoint = null;
+        pendingAttributes = null;
+      } while (readNextObservation() && timestamp != null && timestamp.equals(pendingAttributes.get(TIMESTAMP_FIELD_NAME)));
+      if (pendingPoint == null) {
+        // finished all the observations
+        stopProcessingObservations();
+        return;
+      }
+      // the first observation with a later timestamp stays pending for the next run of the task
+      scheduleNextObservations(getReplayDelay(timestamp, pendingAttributes.get(TIMESTAMP_FIELD_NAME)));
+    } catch (IOException | RuntimeException e) {
+      // an exception escaping the task would silently stop it and leave the file open
+      System.err.println("Failed to read observation: " + e.getMessage());
+      stopProcessingObservations();
+    }
+  }
+
+  /**
+   * Get how long to wait between processing observations with the given timestamps, scaled by the replay speed.
+   *
+   * @param timestamp the timestamp of the observations just processed, in milliseconds
+   * @param nextTimestamp the timestamp of the next observations to process, in milliseconds
+   * @return the millisecond delay before processing the next observations, or 0 if the observations should be
+   *         processed as fast as possible or either timestamp is missing
+   */
+  private long getReplayDelay(Object timestamp, Object nextTimestamp) {
+    if (speed <= 0 || !(timestamp instanceof Double time) || !(nextTimestamp instanceof Double nextTime)) {
+      return 0L;
+    }
+    // observations recorded out of order are processed straight away
+    return Math.max(0L, Math.round((nextTime - time) / speed));
   }
 
   /**
-   * Process the next observation, canceling the task when all lines have been processed.
+   * Stop the processing task and close the file.
    */
-  private void processNextObservation() {
-    int lineNumber = currentLineNumber.getAndAdd(1);
-    if (lineNumber >= allJsonLines.size()) {
-      // finished all the lines
-      observationProcessing.cancel(false);
+  private void stopProcessingObservations() {
+    processingObservations = false;
+    closeObservationFile();
+  }
+
+  /**
+   * Read the next observation from the file into the pending point and attributes. The JSON is read straight into a
+   * point and an attribute map using the field types from the data source info, so no intermediate objects are created.
+   * Observations without a valid location are skipped.
+   *
+   * @return true if an observation was read, or false if there are no more observations in the file
+   * @throws IOException if the observation could not be read
+   */
+  private boolean readNextObservation() throws IOException {
+    while (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+      if (readObservation()) {
+        return true;
+      }
+      reportInvalidValue("geometry");
+    }
+    return false;
+  }
+
+  /**
+   * Read one observation from the file into the pending point and attributes.
+   *
+   * @return true if the observation was read, or false if it doesn't have a valid location
+   * @throws IOException if the observation could not be read
+   */
+  private boolean readObservation() throws IOException {
+    Double x = null;
+    Double y = null;
+    Map<String, Object> attributes = new HashMap<>((int) (fieldTypes.size() / 0.75f) + 1);
+
+    jsonReader.beginObject();
+    while (jsonReader.hasNext()) {
+      String name = jsonReader.nextName();
+      if (name.equals("geometry")) {
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+          switch (jsonReader.nextName()) {
+            case "x" -> x = readDouble();
+            case "y" -> y = readDouble();
+            default -> jsonReader.skipValue();
+          }
+        }
+        jsonReader.endObject();
+      } else if (name.equals("attributes")) {
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+          String fieldName = jsonReader.nextName();
+          Field.Type fieldType = fieldTypes.get(fieldName);
+          if (fieldType == null) {
+            // ignore attributes that are not in the data source info
+            jsonReader.skipValue();
+          } else {
+            attributes.put(fieldName, readAttributeValue(fieldName, fieldType));
+          }
+        }
+        jsonReader.endObject();
+      } else {
+        jsonReader.skipValue();
+      }
+    }
+    jsonReader.endObject();
+
+    if (x == null || y == null) {
+      return false;
+    }
+    pendingPoint = new Point(x, y, SpatialReferences.getWgs84());
+    pendingAttributes = attributes;
+    return true;
+  }
+
+  /**
+   * Read an attribute value as the type expected by its field. A value that can't be converted to the field's type is
+   * stored as null, so that one bad value doesn't stop the observations from being processed.
+   *
+   * @param fieldName the name of the field the value belongs to
+   * @param fieldType the type of the field the value belongs to
+   * @return the attribute value, or null if the value is null in the file or can't be converted
+   * @throws IOException if the value could not be read
+   */
+  private Object readAttributeValue(String fieldName, Field.Type fieldType) throws IOException {
+    JsonToken token = jsonReader.peek();
+    if (token == JsonToken.NULL) {
+      jsonReader.nextNull();
+      return null;
+    }
+    Object value;
+    if (fieldType == Field.Type.DOUBLE) {
+      value = readDouble();
+    } else if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+      value = jsonReader.nextString();
     } else {
-      // process the line by parsing the JSON, and creating the observation, and adding to the data source
-      var observation = gson.fromJson(allJsonLines.get(lineNumber), Observation.class);
-      var point = new Point(observation.geometry.x, observation.geometry.y, SpatialReferences.getWgs84());
-      addObservation(point, observation.attributes);
+      jsonReader.skipValue();
+      value = null;
+    }
+    if (value == null) {
+      reportInvalidValue(fieldName);
+    }
+    return value;
+  }
+
+  /**
+   * Read a number, or a string containing a number, as a double.
+   *
+   * @return the value, or null if it isn't a number
+   * @throws IOException if the value could not be read
+   */
+  private Double readDouble() throws IOException {
+    JsonToken token = jsonReader.peek();
+    if (token == JsonToken.NUMBER || token == JsonToken.STRING) {
+      String value = jsonReader.nextString();
+      try {
+        return Double.parseDouble(value);
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    jsonReader.skipValue();
+    return null;
+  }
+
+  /**
+   * Report an invalid value the first time one is found for the given name, so that a file with many bad values
+   * doesn't flood the output.
+   *
+   * @param name the name of the field or property with an invalid value
+   */
+  private void reportInvalidValue(String name) {
+    if (invalidValueNames.add(name)) {
+      System.err.println("Ignoring invalid values for " + name);
+    }
+  }
+
+  /**
+   * Close the file of observation data if it has been opened.
+   */
+  private void closeObservationFile() {
+    if (jsonReader != null) {
+      try {
+        jsonReader.close();
+      } catch (IOException e) {
+        System.err.println("Failed to close observation file: " + e.getMessage());
+      }
     }
   }
 
   @Override
   protected CompletableFuture<Void> onDisconnectAsync() {
+    // stop the processing task from scheduling itself again
+    processingObservations = false;
     if (observationProcessing != null) {
       observationProcessing.cancel(true);
     }
-    executorService.shutdown();
+    if (!executorService.isShutdown()) {
+      // close the file once any running task has finished with it
+      executorService.execute(this::closeObservationFile);
+      executorService.shutdown();
+    }
     return CompletableFuture.completedFuture(null);
   }
 
   @Override
   protected CompletableFuture<DynamicEntityDataSourceInfo> onLoadAsync() {
-    var dynamicEntityDataSourceInfo = new DynamicEntityDataSourceInfo(entityIdFieldName,
-      List.of(
-        Field.createString("MMSI", null, 256),
-        Field.createDouble("BaseDateTime", null),
-        Field.createDouble("LAT", null),
-        Field.createDouble("LONG", null),
-        Field.createDouble("SOG", null),
-        Field.createDouble("COG", null),
-        Field.createDouble("Heading", null),
-        Field.createString("VesselName", null, 256),
-        Field.createString("IMO", null, 256),
-        Field.createString("CallSign", null, 256),
-        Field.createString("VesselType", null, 256),
-        Field.createString("Status", null, 256),
-        Field.createDouble("Length", null),
-        Field.createDouble("Width", null),
-        Field.createString("Cargo", null, 256),
-        Field.createString("globalid", null, 256)
-      ));
+    var fields = List.of(
+      Field.createString("MMSI", null, 256),
+      Field.createDouble("BaseDateTime", null),
+      Field.createDouble("LAT", null),
+      Field.createDouble("LONG", null),
+      Field.createDouble("SOG", null),
+      Field.createDouble("COG", null),
+      Field.createDouble("Heading", null),
+      Field.createString("VesselName", null, 256),
+      Field.createString("IMO", null, 256),
+      Field.createString("CallSign", null, 256),
+      Field.createString("VesselType", null, 256),
+      Field.createString("Status", null, 256),
+      Field.createDouble("Length", null),
+      Field.createDouble("Width", null),
+      Field.createString("Cargo", null, 256),
+      Field.createString("globalid", null, 256)
+    );
+    // keep the type of each field for reading attribute values from the file
+    fields.forEach(field -> fieldTypes.put(field.getName(), field.getFieldType()));
+
+    var dynamicEntityDataSourceInfo = new DynamicEntityDataSourceInfo(entityIdFieldName, fields);
     dynamicEntityDataSourceInfo.setSpatialReference(SpatialReferences.getWgs84());
     return CompletableFuture.completedFuture(dynamicEntityDataSourceInfo);
   }
@@ -147,28 +365,4 @@ class SimulatedDataSource extends DynamicEntityDataSource {
   public String getUri() {
     return null;
   }
-
-  /**
-   * Used by Gson for parsing the data.
-   */
-  public static class ObservationSpatialReference {
-    public int wkid;
-  }
-
-  /**
-   * Used by Gson for parsing the data.
-   */
-  public static class ObservationGeometry {
-    public double x;
-    public double y;
-    public ObservationSpatialReference spatialReference;
-  }
-
-  /**
-   * Used by Gson for parsing the data.
-   */
-  public static class Observation {
-    public ObservationGeometry geometry;
-    public HashMap<String, Object> attributes;
-  }
 }
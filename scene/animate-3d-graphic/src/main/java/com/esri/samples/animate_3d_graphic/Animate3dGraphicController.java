@@ -20,12 +20,14 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
+import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
@@ -78,14 +80,18 @@ public class Animate3dGraphicController {
   @FXML private Label rollLabel;
 
   private OrbitGeoElementCameraController orbitCameraController;
-  private List<Map<String, Object>> missionData;
+  private MissionData missionData;
+  private final Map<String, MissionData> loadedMissions = new HashMap<>();
   private Graphic plane3D;
   private Graphic plane2D;
   private Graphic routeGraphic;
+  private long lastLabelUpdateTime;
 
   private static final SpatialReference WGS84 = SpatialReferences.getWgs84();
   private static final String ELEVATION_IMAGE_SERVICE =
       "https://elevation3d.arcgis.com/arcgis/rest/services/WorldElevation3D/Terrain3D/ImageServer";
+  // minimum time between updates of the position parameter labels while the animation is playing
+  private static final long LABEL_UPDATE_INTERVAL_NANOS = 100_000_000L;
 
   /**
    * Called after FXML loads. Sets up scene and map and configures property bindings.
@@ -178,23 +184,49 @@ public class Animate3dGraphicController {
   }
 
   /**
-   * Change the mission data and reset the animation.
+   * Change the mission data and reset the animation. Missions that have not been shown before are loaded in the
+   * background, so the current mission keeps animating until the new one is ready.
    */
   @FXML
   private void changeMission() {
 
-    // clear previous mission data
-    missionData = new ArrayList<>();
-
-    // get mission data
     String mission = missionSelector.getSelectionModel().getSelectedItem();
-    missionData = getMissionData(mission);
+
+    // use the mission data if it has already been loaded
+    MissionData loadedMission = loadedMissions.get(mission);
+    if (loadedMission != null) {
+      showMission(loadedMission);
+      return;
+    }
+
+    // otherwise load the mission data off the JavaFX application thread
+    CompletableFuture.supplyAsync(() -> getMissionData(mission)).whenComplete((data, ex) -> Platform.runLater(() -> {
+      if (ex != null) {
+        ex.printStackTrace();
+      } else {
+        loadedMissions.put(mission, data);
+        // only show the mission if it is still the selected one
+        if (mission.equals(missionSelector.getSelectionModel().getSelectedItem())) {
+          showMission(data);
+        }
+      }
+    }));
+  }
+
+  /**
+   * Sets the mission data to animate and resets the animation.
+   *
+   * @param mission the mission data to show
+   */
+  private void showMission(MissionData mission) {
+
+    missionData = mission;
     animationModel.setFrames(missionData.size());
     animationModel.setKeyframe(0);
 
     // draw mission route on mini map
     PointCollection points = new PointCollection(WGS84);
-    points.addAll(missionData.stream().map(m -> (Point) m.get("POSITION")).collect(Collectors.toList()));
+    points.addAll(Arrays.asList(missionData.positions()));
     Polyline route = new Polyline(points);
     routeGraphic.setGeometry(route);
 
@@ -203,31 +235,31 @@ public class Animate3dGraphicController {
   }
 
   /**
-   * Loads the mission data from a .csv file into memory.
+   * Loads the mission data from a .csv file into memory. The lines of the file are parsed in parallel into arrays of
+   * positions and rotation parameters.
    *
    * @param mission .csv file name containing the mission data
-   * @return ordered list of mapped key value pairs representing coordinates and rotation parameters for each step of
-   * the mission
+   * @return coordinates and rotation parameters for each step of the mission
    */
-  private List<Map<String, Object>> getMissionData(String mission) {
+  private MissionData getMissionData(String mission) {
 
     // open a file reader to the mission file that automatically closes after read
     try (BufferedReader missionFile = new BufferedReader(
         new InputStreamReader(getClass().getResourceAsStream("/animate_3d_graphic/csv/" + mission)))) {
-      return missionFile.lines()
-          //ex: -156.3666517,20.6255059,999.999908,83.77659,1.05E-09,-47.766567
-          .map(l -> l.split(","))
-          .map(l -> {
-            // create a map of parameters (ordinates) to values
-            Map<String, Object> ordinates = new HashMap<>();
-            ordinates.put("POSITION", new Point(Float.valueOf(l[0]), Float.valueOf(l[1]), Float.valueOf(l[2]),
-                WGS84));
-            ordinates.put("HEADING", Float.valueOf(l[3]));
-            ordinates.put("PITCH", Float.valueOf(l[4]));
-            ordinates.put("ROLL", Float.valueOf(l[5]));
-            return ordinates;
-          })
-          .collect(Collectors.toList());
+      List<String> lines = missionFile.lines().toList();
+
+      MissionData data = new MissionData(new Point[lines.size()], new float[lines.size()],
+          new float[lines.size()], new float[lines.size()]);
+      IntStream.range(0, lines.size()).parallel().forEach(i -> {
+        //ex: -156.3666517,20.6255059,999.999908,83.77659,1.05E-09,-47.766567
+        String[] l = lines.get(i).split(",");
+        data.positions()[i] = new Point(Float.parseFloat(l[0]), Float.parseFloat(l[1]), Float.parseFloat(l[2]),
+            WGS84);
+        data.headings()[i] = Float.parseFloat(l[3]);
+        data.pitches()[i] = Float.parseFloat(l[4]);
+        data.rolls()[i] = Float.parseFloat(l[5]);
+      });
+      return data;
     } catch (IOException e) {
       e.printStackTrace();
     }
@@ -242,29 +274,41 @@ public class Animate3dGraphicController {
    */
   private void animate(int keyframe) {
 
-    // get the next position from the mission data
-    Map<String, Object> datum = missionData.get(keyframe);
-    Point position = (Point) datum.get("POSITION");
+    // wait until the first mission has loaded
+    if (missionData == null) {
+      return;
+    }
 
-    // update the position parameters pane
-    altitudeLabel.setText(String.format("%.2f", position.getZ()));
-    headingLabel.setText(String.format("%.2f", (float) datum.get("HEADING")));
-    pitchLabel.setText(String.format("%.2f", (float) datum.get("PITCH")));
-    rollLabel.setText(String.format("%.2f", (float) datum.get("ROLL")));
+    // get the next position from the mission data
+    Point position = missionData.positions()[keyframe];
+    float heading = missionData.headings()[keyframe];
+    float pitch = missionData.pitches()[keyframe];
+    float roll = missionData.rolls()[keyframe];
+
+    // update the position parameters pane, at most every 100 ms while playing since the values change too quickly to
+    // read at the animation frame rate
+    long now = System.nanoTime();
+    if (animation.getStatus() != Animation.Status.RUNNING || now - lastLabelUpdateTime >= LABEL_UPDATE_INTERVAL_NANOS) {
+      lastLabelUpdateTime = now;
+      altitudeLabel.setText(String.format("%.2f", position.getZ()));
+      headingLabel.setText(String.format("%.2f", heading));
+      pitchLabel.setText(String.format("%.2f", pitch));
+      rollLabel.setText(String.format("%.2f", roll));
+    }
 
     // update plane's position and orientation
     plane3D.setGeometry(position);
-    plane3D.getAttributes().put("HEADING", datum.get("HEADING"));
-    plane3D.getAttributes().put("PITCH", datum.get("PITCH"));
-    plane3D.getAttributes().put("ROLL", datum.get("ROLL"));
+    plane3D.getAttributes().put("HEADING", heading);
+    plane3D.getAttributes().put("PITCH", pitch);
+    plane3D.getAttributes().put("ROLL", roll);
 
     // update mini map plane's position and rotation
     plane2D.setGeometry(position);
     if (followButton.isSelected()) {
       // rotate the map view in the direction of motion to make graphic always point up
-      mapView.setViewpoint(new Viewpoint(position, mapView.getMapScale(), 360 + (float) datum.get("HEADING")));
+      mapView.setViewpoint(new Viewpoint(position, mapView.getMapScale(), 360 + heading));
     } else {
-      plane2D.getAttributes().put("ANGLE", 360 + (float) datum.get("HEADING") - mapView.getMapRotation());
+      plane2D.getAttributes().put("ANGLE", 360 + heading - mapView.getMapRotation());
     }
   }
 
@@ -278,6 +322,8 @@ public class Animate3dGraphicController {
       animation.play();
     } else {
       animation.stop();
+      // show the labels for the current keyframe, since updates may have been skipped while playing
+      animate(animationModel.getKeyframe());
     }
   }
 
@@ -327,4 +373,24 @@ public class Animate3dGraphicController {
       mapView.dispose();
     }
   }
+
+  /**
+   * The positions and rotation parameters for each step of a mission, held in arrays indexed by keyframe.
+   *
+   * @param positions plane position at each keyframe
+   * @param headings plane heading at each keyframe
+   * @param pitches plane pitch at each keyframe
+   * @param rolls plane roll at each keyframe
+   */
+  private record MissionData(Point[] positions, float[] headings, float[] pitches, float[] rolls) {
+
+    /**
+     * Gets the number of keyframes in the mission.
+     *
+     * @return number of keyframes
+     */
+    int size() {
+      return positions.length;
+    }
+  }
 }
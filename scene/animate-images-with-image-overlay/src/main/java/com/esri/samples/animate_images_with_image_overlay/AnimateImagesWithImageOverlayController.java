@@ -46,6 +46,9 @@ import com.esri.arcgisruntime.mapping.view.SceneView;
 
 public class AnimateImagesWithImageOverlayController {
 
+  // the number of image frames ahead of the displayed frame that are loaded in the background
+  private static final int PREFETCH_FRAME_COUNT = 10;
+
   @FXML private SceneView sceneView;
   @FXML private Button controlAnimationButton;
   @FXML private Slider opacitySlider;
@@ -104,6 +107,9 @@ public class AnimateImagesWithImageOverlayController {
           .sorted()
           .map(f -> new ImageFrame(f.getAbsolutePath(), imageFrameEnvelope))
           .collect(Collectors.toList());
+
+        // start loading the first image frames so that they are ready when the animation starts
+        imageFrames.stream().limit(PREFETCH_FRAME_COUNT).forEach(ImageFrame::loadAsync);
       }
 
       startNewAnimationTimeline();
@@ -126,6 +132,8 @@ public class AnimateImagesWithImageOverlayController {
       imageOverlay.setImageFrame(imageFrames.get(frameIndex));
       // update to the next frame
       frameIndex = (frameIndex + 1) % imageFrames.size();
+      // start loading an upcoming frame so that it is ready before it is displayed
+      imageFrames.get((frameIndex + PREFETCH_FRAME_COUNT - 1) % imageFrames.size()).loadAsync();
     }));
     animation.play();
   }
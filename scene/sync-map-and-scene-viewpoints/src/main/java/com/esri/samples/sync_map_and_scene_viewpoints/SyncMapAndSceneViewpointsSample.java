@@ -19,6 +19,7 @@ package com.esri.samples.sync_map_and_scene_viewpoints;
 
 import java.util.ArrayList;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.geometry.Orientation;
 import javafx.scene.Scene;
@@ -39,6 +40,8 @@ public class SyncMapAndSceneViewpointsSample extends Application {
   private MapView mapView;
   private SceneView sceneView;
   private ArrayList<GeoView> geoViewList;
+  private GeoView navigatingGeoView;
+  private AnimationTimer viewpointSynchronizer;
 
   @Override
   public void start(Stage stage) {
@@ -89,6 +92,15 @@ public class SyncMapAndSceneViewpointsSample extends Application {
       geoViewList.add(mapView);
       geoViewList.add(sceneView);
 
+      // apply the latest viewpoint change on the next JavaFX pulse. The timer is only started while there is a change
+      // to apply
+      viewpointSynchronizer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+          applyViewpoint();
+        }
+      };
+
     } catch (Exception e) {
       // on any error, display the stack trace
       e.printStackTrace();
@@ -96,19 +108,38 @@ public class SyncMapAndSceneViewpointsSample extends Application {
   }
 
   /**
-   * Synchronizes the viewpoint across Geoviews when the user is navigating.
+   * Synchronizes the viewpoint across Geoviews when the user is navigating. Viewpoint changes are coalesced, so that the
+   * other GeoViews are updated once per pulse with the latest viewpoint rather than once for every change.
    */
   private void synchronizeViewpoints(GeoView geoView) {
 
     if (geoView.isNavigating()) {
 
-      Viewpoint geoViewPoint = geoView.getCurrentViewpoint(Viewpoint.Type.CENTER_AND_SCALE);
+      // store the navigated GeoView, its viewpoint is applied to the other GeoViews on the next pulse
+      navigatingGeoView = geoView;
+      viewpointSynchronizer.start();
+    }
+  }
 
-      // loop through the available GeoViews. If it doesn't match the given GeoView, then set the GeoView to the other's viewpoint
-      for (GeoView anyGeoView : geoViewList) {
-        if (anyGeoView != geoView) {
-          anyGeoView.setViewpoint(geoViewPoint);
-        }
+  /**
+   * Sets the current viewpoint of the last navigated GeoView to the other GeoViews, then stops the timer until the next
+   * viewpoint change.
+   */
+  private void applyViewpoint() {
+
+    GeoView geoView = navigatingGeoView;
+    navigatingGeoView = null;
+    viewpointSynchronizer.stop();
+    if (geoView == null) {
+      return;
+    }
+
+    Viewpoint geoViewPoint = geoView.getCurrentViewpoint(Viewpoint.Type.CENTER_AND_SCALE);
+
+    // loop through the available GeoViews. If it doesn't match the given GeoView, then set the GeoView to the other's viewpoint
+    for (GeoView anyGeoView : geoViewList) {
+      if (anyGeoView != geoView) {
+        anyGeoView.setViewpoint(geoViewPoint);
       }
     }
   }
@@ -119,6 +150,9 @@ public class SyncMapAndSceneViewpointsSample extends Application {
   @Override
   public void stop() {
 
+    if (viewpointSynchronizer != null) {
+      viewpointSynchronizer.stop();
+    }
     if (mapView != null && sceneView != null) {
       mapView.dispose();
       sceneView.dispose();